@@ -0,0 +1,142 @@
+#!/usr/bin/env bash
+#
+# Startup-time and first-request-latency benchmark.
+#
+# Runs the same jar three ways:
+#   baseline      plain fat jar, no profile
+#   lazy          fat jar with the fast-startup profile (lazy Docupilot beans only)
+#   fast-startup  extracted jar + fast-startup profile + Spring AOT + CDS archive
+#
+# Startup time is the JVM-reported "process running for" value from the
+# "Started DocassembleDemoApplication" log line. First-request latency is the
+# curl total time of the first HTTP request the instance sees, a POST to
+# /documents/ndr-agreement.
+#
+# Usage:
+#   ./scripts/startup-benchmark.sh [runs]
+#
+# Prerequisites: bash, curl, awk, and JDK 21 as JAVA_HOME (or first on PATH).
+# The same JDK builds the CDS archive and runs every mode. Docassemble does not
+# need to be running: without it the request returns 500, but the latency still
+# covers the cold request path (dispatcher, Jackson, controller, service).
+# Start Docassemble (docker-compose up -d) to include the upstream call.
+
+set -euo pipefail
+
+RUNS="${1:-5}"
+if [[ ! "${RUNS}" =~ ^[1-9][0-9]*$ ]]; then
+    echo "Usage: $0 [runs]  (runs must be a positive integer, got '${RUNS}')" >&2
+    exit 1
+fi
+PORT="${SERVER_PORT:-8080}"
+URL="http://localhost:${PORT}/documents/ndr-agreement"
+BODY='{"agreementDate":"02/19/2026","firstName":"John","lastName":"Doe","address":"123 Main St, New York, NY 10001","phone":"555-123-4567"}'
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+TARGET="${ROOT}/target"
+APP_DIR="${TARGET}/application"
+LOG="${TARGET}/startup-benchmark.log"
+BUILD_LOG="${TARGET}/startup-benchmark-build.log"
+
+if [[ -n "${JAVA_HOME:-}" ]]; then
+    JAVA="${JAVA_HOME}/bin/java"
+else
+    JAVA="java"
+fi
+
+port_in_use() {
+    (exec 3<> "/dev/tcp/127.0.0.1/${PORT}") 2> /dev/null
+}
+
+if port_in_use; then
+    echo "Port ${PORT} is already in use; stop that process or set SERVER_PORT" >&2
+    exit 1
+fi
+
+cd "${ROOT}"
+
+# The CDS training run prints a full application log; keep it out of the report
+echo "Building fast-startup package (log: ${BUILD_LOG})..."
+mkdir -p "${TARGET}"
+if ! sh ./mvnw -B -Pfast-startup -DskipTests package > "${BUILD_LOG}" 2>&1; then
+    echo "Build failed, see ${BUILD_LOG}" >&2
+    exit 1
+fi
+
+JAR="$(ls "${APP_DIR}"/*.jar | head -n 1)"
+FAT_JAR="${TARGET}/$(basename "${JAR}")"
+
+# run_once <work dir> <java args...>
+# Prints "<startup ms> <first request ms> <http status>"
+run_once() {
+    local dir="$1"
+    shift
+    local pid started status latency
+    (cd "${dir}" && exec "${JAVA}" -Dserver.port="${PORT}" "$@") > "${LOG}" 2>&1 &
+    pid=$!
+
+    # Ready = Spring Boot logged "Started"; the web server is listening by then.
+    # Reading the log keeps the first HTTP request for the measurement below.
+    until started="$(grep -m 1 'Started DocassembleDemoApplication in' "${LOG}")"; do
+        if ! kill -0 "${pid}" 2> /dev/null; then
+            echo "Application exited during startup, see ${LOG}" >&2
+            exit 1
+        fi
+        sleep 0.05
+    done
+
+    read -r status latency < <(curl -s -o /dev/null \
+        -w '%{http_code} %{time_total}' \
+        -H 'Content-Type: application/json' \
+        -d "${BODY}" "${URL}")
+
+    kill "${pid}"
+    wait "${pid}" 2> /dev/null || true
+
+    # A rejected CDS archive is only a JVM warning; don't report it as a CDS run
+    if grep -q 'Unable to use shared archive' "${LOG}"; then
+        echo "CDS archive was not loaded, see ${LOG}" >&2
+        exit 1
+    fi
+
+    awk -v line="${started}" -v l="${latency}" -v c="${status}" 'BEGIN {
+        match(line, /process running for [0-9.]+/)
+        split(substr(line, RSTART, RLENGTH), parts, " ")
+        printf "%d %d %s\n", parts[4] * 1000, l * 1000, c
+    }'
+}
+
+# bench <label> <work dir> <java args...>
+bench() {
+    local label="$1"
+    local dir="$2"
+    shift 2
+    local total_start=0 total_latency=0 i result s l c
+    echo
+    echo "== ${label} (${RUNS} runs)"
+    for ((i = 1; i <= RUNS; i++)); do
+        result="$(run_once "${dir}" "$@")"
+        read -r s l c <<< "${result}"
+        printf '  run %d: startup %5d ms, first request %5d ms (HTTP %s)\n' "${i}" "${s}" "${l}" "${c}"
+        total_start=$((total_start + s))
+        total_latency=$((total_latency + l))
+    done
+    printf '  avg:   startup %5d ms, first request %5d ms\n' \
+        "$((total_start / RUNS))" "$((total_latency / RUNS))"
+}
+
+bench "baseline (fat jar)" "${ROOT}" \
+    -jar "${FAT_JAR}"
+
+bench "lazy (fat jar, fast-startup profile)" "${ROOT}" \
+    -Dspring.profiles.active=fast-startup \
+    -jar "${FAT_JAR}"
+
+# The training run recorded a classpath relative to target/application,
+# so the archive only matches when started from there.
+bench "fast-startup (lazy + AOT + CDS)" "${APP_DIR}" \
+    -XX:SharedArchiveFile=application.jsa \
+    -Xlog:cds=warning \
+    -Dspring.aot.enabled=true \
+    -Dspring.profiles.active=fast-startup \
+    -jar "$(basename "${JAR}")"
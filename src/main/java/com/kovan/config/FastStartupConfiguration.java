@@ -0,0 +1,44 @@
+package com.kovan.config;
+
+import com.kovan.controller.DocupilotController;
+import com.kovan.controller.PdfController;
+import com.kovan.service.HtmlMergeService;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.util.List;
+
+/**
+ * Active with the "fast-startup" profile (mvn -Pfast-startup, see scripts/startup-benchmark.sh).
+ *
+ * Marks the rarely used Docupilot integration beans lazy, so they are created on
+ * their first request instead of at boot. /documents/ndr-agreement stays eager.
+ * Under Spring AOT the flag is captured at build time, which is why the Maven
+ * profile runs process-aot with the same Spring profile.
+ */
+@Configuration(proxyBeanMethods = false)
+@Profile("fast-startup")
+public class FastStartupConfiguration {
+
+    static final List<Class<?>> LAZY_BEAN_TYPES = List.of(
+            DocupilotController.class,
+            PdfController.class,
+            HtmlMergeService.class);
+
+    @Bean
+    static BeanFactoryPostProcessor lazyIntegrationBeans() {
+        return beanFactory -> {
+            for (Class<?> type : LAZY_BEAN_TYPES) {
+                String[] names = beanFactory.getBeanNamesForType(type, true, false);
+                if (names.length == 0) {
+                    throw new IllegalStateException("fast-startup: no bean of type " + type.getName() + " to make lazy");
+                }
+                for (String name : names) {
+                    beanFactory.getBeanDefinition(name).setLazyInit(true);
+                }
+            }
+        };
+    }
+}
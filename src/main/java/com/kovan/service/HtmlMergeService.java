@@ -0,0 +1,57 @@
+package com.kovan.service;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Service;
+import org.springframework.web.util.HtmlUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Fills {{ token }} placeholders in a classpath HTML template.
+ *
+ * {{ client_signature }} is replaced with an &lt;img&gt; holding the signature PNG
+ * as a base64 data URI. Every other token is replaced with its HTML-escaped value
+ * from the placeholder map; unknown tokens are left as they are.
+ */
+@Service
+public class HtmlMergeService {
+
+    private static final String SIGNATURE_TOKEN = "client_signature";
+
+    private static final Pattern TOKEN = Pattern.compile("\\{\\{\\s*([A-Za-z0-9_]+)\\s*}}");
+
+    public String mergeSignaturesIntoHtml(String htmlResource, byte[] signatureBytes,
+                                          Map<String, String> placeholders) throws IOException {
+        String html;
+        try (InputStream is = new ClassPathResource(htmlResource).getInputStream()) {
+            html = new String(is.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        String signatureImg = "<img src=\"data:image/png;base64,"
+                + Base64.getEncoder().encodeToString(signatureBytes)
+                + "\" alt=\"Client signature\"/>";
+
+        Matcher m = TOKEN.matcher(html);
+        StringBuilder out = new StringBuilder(html.length() + signatureImg.length());
+        while (m.find()) {
+            String name = m.group(1);
+            String replacement;
+            if (SIGNATURE_TOKEN.equals(name)) {
+                replacement = signatureImg;
+            } else if (placeholders.containsKey(name)) {
+                replacement = HtmlUtils.htmlEscape(placeholders.get(name));
+            } else {
+                replacement = m.group();
+            }
+            m.appendReplacement(out, Matcher.quoteReplacement(replacement));
+        }
+        m.appendTail(out);
+        return out.toString();
+    }
+}
@@ -0,0 +1,52 @@
+package com.kovan;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FastStartupConfigurationTests {
+
+	@Nested
+	@SpringBootTest
+	@ActiveProfiles("fast-startup")
+	class WithProfile {
+
+		@Autowired
+		ConfigurableListableBeanFactory beanFactory;
+
+		@ParameterizedTest
+		@ValueSource(strings = {"docupilotController", "pdfController", "htmlMergeService"})
+		void integrationBeansAreLazy(String name) {
+			assertThat(beanFactory.getBeanDefinition(name).isLazyInit()).isTrue();
+		}
+
+		@Test
+		void documentControllerStaysEager() {
+			assertThat(beanFactory.getBeanDefinition("documentController").isLazyInit()).isFalse();
+		}
+
+	}
+
+	@Nested
+	@SpringBootTest
+	class WithoutProfile {
+
+		@Autowired
+		ConfigurableListableBeanFactory beanFactory;
+
+		@ParameterizedTest
+		@ValueSource(strings = {"docupilotController", "pdfController", "htmlMergeService", "documentController"})
+		void allBeansAreEager(String name) {
+			assertThat(beanFactory.getBeanDefinition(name).isLazyInit()).isFalse();
+		}
+
+	}
+
+}
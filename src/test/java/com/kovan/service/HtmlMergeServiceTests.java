@@ -0,0 +1,51 @@
+package com.kovan.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HtmlMergeServiceTests {
+
+	private static final byte[] SIGNATURE = {1, 2, 3};
+
+	private final HtmlMergeService service = new HtmlMergeService();
+
+	@Test
+	void escapesPlaceholderValues() throws Exception {
+		String html = service.mergeSignaturesIntoHtml("merge-test.html", SIGNATURE,
+				Map.of("client_name", "<b>Tom & Jerry</b>", "fee", "25"));
+
+		assertThat(html).contains("<p>Client: &lt;b&gt;Tom &amp; Jerry&lt;/b&gt;</p>");
+		assertThat(html).contains("<p>Fee: 25</p>");
+	}
+
+	@Test
+	void replacesSignatureTokenWithDataUriImage() throws Exception {
+		String html = service.mergeSignaturesIntoHtml("merge-test.html", SIGNATURE, Map.of());
+
+		assertThat(html).contains("<div><img src=\"data:image/png;base64,"
+				+ Base64.getEncoder().encodeToString(SIGNATURE) + "\" alt=\"Client signature\"/></div>");
+		assertThat(html).doesNotContain("client_signature");
+	}
+
+	@Test
+	void leavesUnknownTokensUntouched() throws Exception {
+		String html = service.mergeSignaturesIntoHtml("merge-test.html", SIGNATURE, Map.of("fee", "25"));
+
+		assertThat(html).contains("<p>Unknown: {{ not_provided }}</p>");
+		assertThat(html).contains("<p>Client: {{client_name}}</p>");
+	}
+
+	@Test
+	void keepsDollarAndBackslashLiteral() throws Exception {
+		String html = service.mergeSignaturesIntoHtml("merge-test.html", SIGNATURE,
+				Map.of("client_name", "C:\\clients\\$1", "fee", "$6,250"));
+
+		assertThat(html).contains("<p>Client: C:\\clients\\$1</p>");
+		assertThat(html).contains("<p>Fee: $6,250</p>");
+	}
+
+}